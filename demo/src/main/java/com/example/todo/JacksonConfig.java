@@ -0,0 +1,17 @@
+package com.example.todo;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Serialitzadors generats amb LambdaMetafactory en lloc de reflexió.
+    // Spring Boot registra automàticament qualsevol Module a l'ObjectMapper.
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
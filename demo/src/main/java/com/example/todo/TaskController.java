@@ -2,6 +2,7 @@ package com.example.todo;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,18 +17,20 @@ import java.util.HashMap;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskJsonCache taskJsonCache;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskJsonCache taskJsonCache) {
         this.taskService = taskService;
+        this.taskJsonCache = taskJsonCache;
     }
 
     // Endpoints bàsics CRUD
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
+    public ResponseEntity<byte[]> getAllTasks() {
         List<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        return jsonList(tasks);
     }
     
     @GetMapping("/{id}")
@@ -112,62 +115,62 @@ public class TaskController {
     // Endpoints de consultes
 
     @GetMapping("/pending")
-    public ResponseEntity<List<Task>> getPendingTasks() {
+    public ResponseEntity<byte[]> getPendingTasks() {
         List<Task> pendingTasks = taskService.getPendingTasks();
-        return ResponseEntity.ok(pendingTasks);
+        return jsonList(pendingTasks);
     }
     
     @GetMapping("/completed")
-    public ResponseEntity<List<Task>> getCompletedTasks() {
+    public ResponseEntity<byte[]> getCompletedTasks() {
         List<Task> completedTasks = taskService.getCompletedTasks();
-        return ResponseEntity.ok(completedTasks);
+        return jsonList(completedTasks);
     }
     
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<Task>> getTasksByPriority(@PathVariable String priority) {
+    public ResponseEntity<byte[]> getTasksByPriority(@PathVariable String priority) {
         try {
             Task.Priority taskPriority = Task.Priority.valueOf(priority.toUpperCase());
             List<Task> tasks = taskService.getTasksByPriority(taskPriority);
-            return ResponseEntity.ok(tasks);
+            return jsonList(tasks);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String q) {
+    public ResponseEntity<byte[]> searchTasks(@RequestParam String q) {
         if (q == null || q.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
         List<Task> tasks = taskService.searchTasksByDescription(q);
-        return ResponseEntity.ok(tasks);
+        return jsonList(tasks);
     }
     
     @GetMapping("/pending/by-priority")
-    public ResponseEntity<List<Task>> getPendingTasksByPriority() {
+    public ResponseEntity<byte[]> getPendingTasksByPriority() {
         List<Task> tasks = taskService.getPendingTasksByPriority();
-        return ResponseEntity.ok(tasks);
+        return jsonList(tasks);
     }
     
     @GetMapping("/urgent")
-    public ResponseEntity<List<Task>> getUrgentTasks() {
+    public ResponseEntity<byte[]> getUrgentTasks() {
         List<Task> urgentTasks = taskService.getUrgentTasks();
-        return ResponseEntity.ok(urgentTasks);
+        return jsonList(urgentTasks);
     }
     
     @GetMapping("/today")
-    public ResponseEntity<List<Task>> getTasksCreatedToday() {
+    public ResponseEntity<byte[]> getTasksCreatedToday() {
         List<Task> todayTasks = taskService.getTasksCreatedToday();
-        return ResponseEntity.ok(todayTasks);
+        return jsonList(todayTasks);
     }
     
     @GetMapping("/recently-completed")
-    public ResponseEntity<List<Task>> getRecentlyCompleted(@RequestParam(defaultValue = "7") int days) {
+    public ResponseEntity<byte[]> getRecentlyCompleted(@RequestParam(defaultValue = "7") int days) {
         if (days < 1 || days > 365) {
             return ResponseEntity.badRequest().build();
         }
         List<Task> recentTasks = taskService.getRecentlyCompleted(days);
-        return ResponseEntity.ok(recentTasks);
+        return jsonList(recentTasks);
     }
 
     // Endpoint d'estadístiques
@@ -208,6 +211,13 @@ public class TaskController {
         return ResponseEntity.ok(health);
     }
 
+    // Les llistes es construeixen concatenant el JSON de cada tasca guardat a TaskJsonCache
+    private ResponseEntity<byte[]> jsonList(List<Task> tasks) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taskJsonCache.toJsonArray(tasks));
+    }
+
     // Gestió global d'errors
 
     @ExceptionHandler(TaskService.TaskNotFoundException.class)
@@ -0,0 +1,114 @@
+package com.example.todo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// Cache del JSON codificat de cada tasca, per ID i versió (updatedAt).
+// La cache confia en updatedAt: una entrada es reutilitza mentre no canvia, i TaskService
+// només n'esborra entrades després del commit (necessari per a les eliminacions).
+// Els canvis que no passen per @PreUpdate (consola H2, consultes @Modifying...) no canvien
+// updatedAt, així que es poden servir obsolets com a molt durant todo.json-cache.ttl.
+@Component
+public class TaskJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedJson> cache;
+
+    @Autowired
+    public TaskJsonCache(ObjectMapper objectMapper,
+                         @Value("${todo.json-cache.max-entries:10000}") int maxEntries,
+                         @Value("${todo.json-cache.ttl:PT1M}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Retorna el JSON de la tasca, reutilitzant-lo si la versió (updatedAt) no ha canviat
+    public byte[] getJson(Task task) {
+        Long id = task.getId();
+        if (id == null) {
+            return serialize(task);
+        }
+
+        CachedJson cached = cache.getIfPresent(id);
+        if (cached != null && Objects.equals(cached.version, task.getUpdatedAt())) {
+            return cached.json;
+        }
+
+        byte[] json = serialize(task);
+        cache.put(id, new CachedJson(task.getUpdatedAt(), json));
+        return json;
+    }
+
+    // Construeix l'array JSON d'una llista de tasques concatenant els bytes ja codificats
+    public byte[] toJsonArray(List<Task> tasks) {
+        byte[][] chunks = new byte[tasks.size()][];
+        int length = 2 + Math.max(tasks.size() - 1, 0);
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = getJson(tasks.get(i));
+            length += chunks[i].length;
+        }
+
+        byte[] array = new byte[length];
+        int position = 0;
+        array[position++] = '[';
+        for (int i = 0; i < chunks.length; i++) {
+            if (i > 0) {
+                array[position++] = ',';
+            }
+            System.arraycopy(chunks[i], 0, array, position, chunks[i].length);
+            position += chunks[i].length;
+        }
+        array[position] = ']';
+        return array;
+    }
+
+    // Invalidació (cridada des de TaskService després de cada commit)
+
+    public void evict(Long id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        ids.forEach(this::evict);
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private byte[] serialize(Task task) {
+        try {
+            return objectMapper.writeValueAsBytes(task);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No s'ha pogut serialitzar la tasca amb ID " + task.getId(), e);
+        }
+    }
+
+    // Entrada de la cache: versió de la tasca i el seu JSON codificat
+    private static class CachedJson {
+        private final LocalDateTime version;
+        private final byte[] json;
+
+        CachedJson(LocalDateTime version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
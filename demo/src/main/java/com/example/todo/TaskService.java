@@ -3,6 +3,8 @@ package com.example.todo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,10 +15,12 @@ import java.util.Optional;
 public class TaskService {
     
     private final TaskRepository taskRepository;
+    private final TaskJsonCache taskJsonCache;
     
     @Autowired
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskJsonCache taskJsonCache) {
         this.taskRepository = taskRepository;
+        this.taskJsonCache = taskJsonCache;
     }
     
     // Operacions bàsiques CRUD
@@ -44,7 +48,7 @@ public class TaskService {
     }
     
     public Task updateTask(Long id, Task updatedTask) {
-        return taskRepository.findById(id)
+        Task savedTask = taskRepository.findById(id)
                 .map(existingTask -> {
                     // Actualitzar només els camps permesos
                     if (updatedTask.getDescription() != null && !updatedTask.getDescription().trim().isEmpty()) {
@@ -59,6 +63,8 @@ public class TaskService {
                     return taskRepository.save(existingTask);
                 })
                 .orElseThrow(() -> new TaskNotFoundException("Tasca amb ID " + id + " no trobada"));
+        evictAfterCommit(List.of(id));
+        return savedTask;
     }
     
     public void deleteTask(Long id) {
@@ -66,37 +72,44 @@ public class TaskService {
             throw new TaskNotFoundException("Tasca amb ID " + id + " no trobada");
         }
         taskRepository.deleteById(id);
+        evictAfterCommit(List.of(id));
     }
     
     // Operacions específiques de tasques
     
     public Task completeTask(Long id) {
-        return taskRepository.findById(id)
+        Task savedTask = taskRepository.findById(id)
                 .map(task -> {
                     task.setCompleted(true);
                     task.setCompletedAt(LocalDateTime.now());
                     return taskRepository.save(task);
                 })
                 .orElseThrow(() -> new TaskNotFoundException("Tasca amb ID " + id + " no trobada"));
+        evictAfterCommit(List.of(id));
+        return savedTask;
     }
     
     public Task uncompleteTask(Long id) {
-        return taskRepository.findById(id)
+        Task savedTask = taskRepository.findById(id)
                 .map(task -> {
                     task.setCompleted(false);
                     task.setCompletedAt(null);
                     return taskRepository.save(task);
                 })
                 .orElseThrow(() -> new TaskNotFoundException("Tasca amb ID " + id + " no trobada"));
+        evictAfterCommit(List.of(id));
+        return savedTask;
     }
     
     public Task changePriority(Long id, Task.Priority newPriority) {
-        return taskRepository.findById(id)
+        Task savedTask = taskRepository.findById(id)
                 .map(task -> {
                     task.setPriority(newPriority);
                     return taskRepository.save(task);
                 })
                 .orElseThrow(() -> new TaskNotFoundException("Tasca amb ID " + id + " no trobada"));
+        evictAfterCommit(List.of(id));
+        return savedTask;
     }
     
     // Consultes avançades
@@ -160,11 +173,28 @@ public class TaskService {
         });
         
         taskRepository.saveAll(pendingTasks);
+        evictAfterCommit(pendingTasks.stream().map(Task::getId).toList());
     }
     
     public void deleteCompletedTasks() {
         List<Task> completedTasks = getCompletedTasks();
         taskRepository.deleteAll(completedTasks);
+        evictAfterCommit(completedTasks.stream().map(Task::getId).toList());
+    }
+    
+    // Invalidació de la cache JSON un cop la transacció ha fet commit, perquè una lectura
+    // concurrent no torni a guardar l'estat anterior just després d'invalidar
+    private void evictAfterCommit(List<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            taskJsonCache.evictAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskJsonCache.evictAll(ids);
+            }
+        });
     }
     
     // Classe interna per a estadístiques
@@ -0,0 +1,92 @@
+package com.example.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Sense @Transactional: la cache s'invalida després del commit real de TaskService
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskJsonCache taskJsonCache;
+
+    private Task first;
+    private Task second;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        first = taskService.createTask(new Task("Comprar pa", Task.Priority.HIGH));
+        second = taskService.createTask(new Task("Trucar al metge", Task.Priority.LOW));
+    }
+
+    @Test
+    void listEndpointsMatchJacksonOutputAfterWrites() throws Exception {
+        assertEquals(expectedJson(taskService.getAllTasks()), getList("/api/tasks"));
+        assertEquals(expectedJson(taskService.getPendingTasks()), getList("/api/tasks/pending"));
+
+        taskService.completeTask(first.getId());
+        Task update = new Task("Trucar al dentista");
+        update.setNotes("Abans de divendres");
+        taskService.updateTask(second.getId(), update);
+
+        String allTasks = getList("/api/tasks");
+        assertEquals(expectedJson(taskService.getAllTasks()), allTasks);
+        assertTrue(allTasks.contains("Trucar al dentista"));
+        assertFalse(allTasks.contains("Trucar al metge"));
+
+        String pendingTasks = getList("/api/tasks/pending");
+        assertEquals(expectedJson(taskService.getPendingTasks()), pendingTasks);
+        assertFalse(pendingTasks.contains("Comprar pa"));
+    }
+
+    @Test
+    void deletedTasksAreEvictedAfterCommit() throws Exception {
+        getList("/api/tasks");
+        long cachedBefore = taskJsonCache.size();
+
+        taskService.deleteTask(first.getId());
+
+        assertEquals(cachedBefore - 1, taskJsonCache.size());
+        assertEquals(expectedJson(taskService.getAllTasks()), getList("/api/tasks"));
+    }
+
+    private String getList(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private String expectedJson(List<Task> tasks) throws Exception {
+        return objectMapper.writeValueAsString(tasks);
+    }
+}
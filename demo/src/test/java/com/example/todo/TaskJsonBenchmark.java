@@ -0,0 +1,93 @@
+package com.example.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Benchmark de la codificació de 10k tasques: l'ObjectMapper de Boot (reflexió), amb Blackbird
+// i el camí dels endpoints de llista (TaskJsonCache.toJsonArray).
+// JMH arrenca el fork amb java.class.path, per això cal una JVM nova amb el classpath de test:
+// mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//     "-Dexec.args=-classpath %classpath com.example.todo.TaskJsonBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    private List<Task> tasks;
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper blackbirdMapper;
+    private TaskJsonCache taskJsonCache;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(TASK_COUNT);
+        Task.Priority[] priorities = Task.Priority.values();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task("Tasca número " + i, priorities[i % priorities.length]);
+            task.setId((long) i + 1);
+            task.setNotes(i % 3 == 0 ? "Notes de la tasca " + i : null);
+            task.setCreatedAt(now.minusMinutes(i));
+            task.setUpdatedAt(now);
+            if (i % 2 == 0) {
+                task.setCompleted(true);
+                task.setCompletedAt(now);
+            }
+            tasks.add(task);
+        }
+
+        // Mateixa configuració que l'ObjectMapper de Spring Boot, amb i sense Blackbird
+        reflectionMapper = bootMapperBuilder().build();
+        blackbirdMapper = bootMapperBuilder().modulesToInstall(new BlackbirdModule()).build();
+
+        // La cache s'escalfa una vegada; el benchmark mesura el cas de tasques sense canvis
+        taskJsonCache = new TaskJsonCache(blackbirdMapper, TASK_COUNT, Duration.ofHours(1));
+        taskJsonCache.toJsonArray(tasks);
+    }
+
+    @Benchmark
+    public byte[] reflection() throws IOException {
+        return reflectionMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] blackbird() throws IOException {
+        return blackbirdMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] cachedBytes() {
+        return taskJsonCache.toJsonArray(tasks);
+    }
+
+    // Els mateixos valors per defecte que aplica JacksonAutoConfiguration
+    private static Jackson2ObjectMapperBuilder bootMapperBuilder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskJsonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private TaskJsonCache taskJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskJsonCache = new TaskJsonCache(objectMapper, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void returnsCachedBytesWhileUpdatedAtIsUnchanged() {
+        Task task = task(1L, "Comprar pa");
+
+        byte[] first = taskJsonCache.getJson(task);
+        task.setDescription("Canvi sense passar per @PreUpdate");
+        byte[] second = taskJsonCache.getJson(task);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void reserializesWhenUpdatedAtChanges() throws Exception {
+        Task task = task(1L, "Comprar pa");
+        byte[] first = taskJsonCache.getJson(task);
+
+        task.setDescription("Comprar llet");
+        task.setUpdatedAt(task.getUpdatedAt().plusSeconds(1));
+        byte[] second = taskJsonCache.getJson(task);
+
+        assertNotSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(task), second);
+    }
+
+    @Test
+    void evictDropsEntries() {
+        Task first = task(1L, "Primera");
+        Task second = task(2L, "Segona");
+        Task third = task(3L, "Tercera");
+        byte[] cached = taskJsonCache.getJson(first);
+        taskJsonCache.getJson(second);
+        taskJsonCache.getJson(third);
+
+        taskJsonCache.evict(1L);
+        assertEquals(2, taskJsonCache.size());
+        assertNotSame(cached, taskJsonCache.getJson(first));
+
+        taskJsonCache.evictAll(List.of(1L, 2L, 3L));
+        assertEquals(0, taskJsonCache.size());
+    }
+
+    @Test
+    void expiredEntriesAreReserialized() {
+        TaskJsonCache expiringCache = new TaskJsonCache(objectMapper, 100, Duration.ZERO);
+        Task task = task(1L, "Comprar pa");
+
+        byte[] first = expiringCache.getJson(task);
+
+        assertNotSame(first, expiringCache.getJson(task));
+    }
+
+    @Test
+    void sizeIsBounded() {
+        TaskJsonCache smallCache = new TaskJsonCache(objectMapper, 2, Duration.ofMinutes(10));
+
+        for (long id = 1; id <= 5; id++) {
+            smallCache.getJson(task(id, "Tasca " + id));
+        }
+
+        assertEquals(2, smallCache.size());
+    }
+
+    @Test
+    void toJsonArrayMatchesJacksonOutput() throws Exception {
+        List<Task> tasks = List.of(task(1L, "Primera"), task(2L, "Segona amb \"cometes\" i accents: àèò"));
+        tasks.get(1).setCompleted(true);
+        tasks.get(1).setCompletedAt(LocalDateTime.of(2024, 5, 2, 9, 30));
+        tasks.get(1).setNotes("Notes");
+        taskJsonCache.getJson(tasks.get(0));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(tasks), taskJsonCache.toJsonArray(tasks));
+    }
+
+    @Test
+    void toJsonArrayOfEmptyListIsEmptyArray() throws Exception {
+        List<Task> tasks = List.of();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(tasks), taskJsonCache.toJsonArray(tasks));
+        assertEquals("[]", new String(taskJsonCache.toJsonArray(tasks), StandardCharsets.UTF_8));
+    }
+
+    private static Task task(Long id, String description) {
+        Task task = new Task(description, Task.Priority.HIGH);
+        task.setId(id);
+        task.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        task.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        return task;
+    }
+}